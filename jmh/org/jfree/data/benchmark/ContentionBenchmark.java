@@ -0,0 +1,77 @@
+package org.jfree.data.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.DataUtilities;
+import org.jfree.data.DefaultKeyedValues2D;
+import org.openjdk.jmh.annotations.*;
+
+// Readers taking column totals while writers update cells of the same table, all
+// behind one global lock. Scale the thread mix with -tg <readers>,<writers>,
+// e.g. -tg 1,0 / 1,1 / 3,1 / 6,2 / 12,4 / 24,8 for 1 to 32 threads.
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+    private static final int ROWS = 1000;
+    private static final int COLUMNS = 10;
+
+    private DefaultKeyedValues2D table;
+    private String[] rowKeys;
+    private String[] columnKeys;
+    // keys and written values are built up front so the lock is held only for the update
+    private Number[] writeValues;
+    private final Object lock = new Object();
+
+    @Setup
+    public void setUp() {
+        table = new DefaultKeyedValues2D();
+        rowKeys = new String[ROWS];
+        columnKeys = new String[COLUMNS];
+        writeValues = new Number[ROWS];
+        for (int column = 0; column < COLUMNS; column++) {
+            columnKeys[column] = "Column" + column;
+        }
+        for (int row = 0; row < ROWS; row++) {
+            rowKeys[row] = "Row" + row;
+            writeValues[row] = row * 0.25;
+            for (int column = 0; column < COLUMNS; column++) {
+                table.addValue(row * 0.5 + column, rowKeys[row], columnKeys[column]);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance(int bound) {
+            next = next + 1 == bound ? 0 : next + 1;
+            return next;
+        }
+    }
+
+    @Benchmark
+    @Group("globalLock")
+    public double read(Cursor cursor) {
+        int column = cursor.advance(COLUMNS);
+        synchronized (lock) {
+            return DataUtilities.calculateColumnTotal(table, column);
+        }
+    }
+
+    @Benchmark
+    @Group("globalLock")
+    public void write(Cursor cursor) {
+        int row = cursor.advance(ROWS);
+        Number value = writeValues[row];
+        String rowKey = rowKeys[row];
+        String columnKey = columnKeys[row % COLUMNS];
+        synchronized (lock) {
+            table.setValue(value, rowKey, columnKey);
+        }
+    }
+}
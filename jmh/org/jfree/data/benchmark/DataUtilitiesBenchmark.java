@@ -0,0 +1,67 @@
+package org.jfree.data.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.DataUtilities;
+import org.jfree.data.DefaultKeyedValues;
+import org.jfree.data.DefaultKeyedValues2D;
+import org.jfree.data.KeyedValues;
+import org.openjdk.jmh.annotations.*;
+
+// size is the row count, the column count and the length of the 1D inputs.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataUtilitiesBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private DefaultKeyedValues2D table;
+    private DefaultKeyedValues keyedValues;
+    private double[] primitives;
+    private double[][] primitives2D;
+
+    @Setup
+    public void setUp() {
+        table = new DefaultKeyedValues2D();
+        keyedValues = new DefaultKeyedValues();
+        primitives = new double[size];
+        primitives2D = new double[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                table.addValue(row * 0.5 + column, "Row" + row, "Column" + column);
+                primitives2D[row][column] = row * 0.5 + column;
+            }
+            keyedValues.addValue("Key" + row, row + 1.0);
+            primitives[row] = row * 0.5;
+        }
+    }
+
+    @Benchmark
+    public double calculateColumnTotal() {
+        return DataUtilities.calculateColumnTotal(table, size / 2);
+    }
+
+    @Benchmark
+    public double calculateRowTotal() {
+        return DataUtilities.calculateRowTotal(table, size / 2);
+    }
+
+    @Benchmark
+    public Number[] createNumberArray() {
+        return DataUtilities.createNumberArray(primitives);
+    }
+
+    @Benchmark
+    public Number[][] createNumberArray2D() {
+        return DataUtilities.createNumberArray2D(primitives2D);
+    }
+
+    @Benchmark
+    public KeyedValues getCumulativePercentages() {
+        return DataUtilities.getCumulativePercentages(keyedValues);
+    }
+}
@@ -0,0 +1,69 @@
+package org.jfree.data.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.jfree.data.DataUtilities;
+import org.jfree.data.DefaultKeyedValues2D;
+import org.openjdk.jmh.annotations.*;
+
+// Cost of wrapping calculateColumnTotal in a Flight Recorder event while no recording
+// is running, compared with the bare call. Start a recording (for example with
+// -jvmArgsAppend -XX:StartFlightRecording) to measure the enabled cost instead.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationOverheadBenchmark {
+    @Name("org.jfree.data.Aggregation")
+    @Label("DataUtilities Aggregation")
+    @Category("JFreeChart")
+    static class AggregationEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Rows Scanned")
+        int rows;
+
+        @Label("Columns Scanned")
+        int columns;
+    }
+
+    @Param({"10", "1000"})
+    private int rows;
+
+    private DefaultKeyedValues2D table;
+
+    @Setup
+    public void setUp() {
+        table = new DefaultKeyedValues2D();
+        for (int row = 0; row < rows; row++) {
+            table.addValue(row * 0.5, "Row" + row, "Column");
+        }
+    }
+
+    @Benchmark
+    public double bare() {
+        return DataUtilities.calculateColumnTotal(table, 0);
+    }
+
+    @Benchmark
+    public double withEvent() {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+        double total = DataUtilities.calculateColumnTotal(table, 0);
+        if (event.shouldCommit()) {
+            event.operation = "calculateColumnTotal";
+            event.rows = table.getRowCount();
+            event.columns = 1;
+            event.commit();
+        }
+        return total;
+    }
+}
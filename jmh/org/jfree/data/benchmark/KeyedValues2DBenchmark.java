@@ -0,0 +1,49 @@
+package org.jfree.data.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.DefaultKeyedValues2D;
+import org.openjdk.jmh.annotations.*;
+
+// Keyed access on a single-row table; each call uses the next column key in turn,
+// so the score is the average over every key position.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyedValues2DBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int columns;
+
+    private DefaultKeyedValues2D table;
+    private String[] columnKeys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        table = new DefaultKeyedValues2D();
+        columnKeys = new String[columns];
+        for (int column = 0; column < columns; column++) {
+            columnKeys[column] = "Column" + column;
+            table.addValue(column * 0.5, "Row", columnKeys[column]);
+        }
+    }
+
+    private String nextColumnKey() {
+        String key = columnKeys[next];
+        next = next + 1 == columns ? 0 : next + 1;
+        return key;
+    }
+
+    @Benchmark
+    public Number getValueByKeys() {
+        return table.getValue("Row", nextColumnKey());
+    }
+
+    @Benchmark
+    public void addValueToExistingCell() {
+        table.addValue(1.0, "Row", nextColumnKey());
+    }
+}
@@ -0,0 +1,81 @@
+package org.jfree.data.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Each operation runs once per input, so divide the reported time by size for a single call.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeBenchmark {
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private Range[] ranges;
+    private double[] values;
+    private Range window;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ranges = new Range[size + 1];
+        values = new double[size];
+        for (int i = 0; i <= size; i++) {
+            double lower = random.nextDouble() * 100.0 - 50.0;
+            ranges[i] = new Range(lower, lower + random.nextDouble() * 20.0);
+        }
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextDouble() * 200.0 - 100.0;
+        }
+        window = new Range(-10.0, 10.0);
+    }
+
+    @Benchmark
+    public void combine(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(Range.combine(ranges[i], ranges[i + 1]));
+        }
+    }
+
+    @Benchmark
+    public void expand(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(Range.expand(ranges[i], 0.1, 0.1));
+        }
+    }
+
+    @Benchmark
+    public void expandToInclude(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(Range.expandToInclude(ranges[i], values[i]));
+        }
+    }
+
+    @Benchmark
+    public void shift(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(Range.shift(ranges[i], values[i]));
+        }
+    }
+
+    @Benchmark
+    public void intersects(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(window.intersects(ranges[i].getLowerBound(), ranges[i].getUpperBound()));
+        }
+    }
+
+    @Benchmark
+    public void constrain(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(window.constrain(values[i]));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.jfree.data.test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+// Measures steady-state allocation and latency of a single call after warm-up.
+class CallBudget {
+    private static final int WARMUP_CALLS = 20000;
+    private static final int MEASURED_CALLS = 20000;
+
+    private static volatile Object sink;
+    // primitive results go here so that the harness does not box them
+    private static volatile double primitiveSink;
+
+    static boolean isAllocationMeasurable() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled();
+    }
+
+    static double bytesPerCall(Supplier<?> call) {
+        return measureBytes(() -> sink = call.get());
+    }
+
+    static double bytesPerCall(DoubleSupplier call) {
+        return measureBytes(() -> primitiveSink += call.getAsDouble());
+    }
+
+    static double nanosPerCall(Supplier<?> call) {
+        return measureNanos(() -> sink = call.get());
+    }
+
+    static double nanosPerCall(DoubleSupplier call) {
+        return measureNanos(() -> primitiveSink += call.getAsDouble());
+    }
+
+    private static double measureBytes(Runnable call) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        warmUp(call);
+        long before = bean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run();
+        }
+        long after = bean.getThreadAllocatedBytes(threadId);
+        return (double) (after - before) / MEASURED_CALLS;
+    }
+
+    private static double measureNanos(Runnable call) {
+        warmUp(call);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_CALLS;
+    }
+
+    private static void warmUp(Runnable call) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.run();
+        }
+    }
+}
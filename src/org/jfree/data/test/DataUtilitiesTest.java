@@ -5,6 +5,17 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
 import org.jfree.data.DataUtilities;
 import org.jfree.data.DefaultKeyedValues;
 import org.jfree.data.DefaultKeyedValues2D;
@@ -318,4 +329,246 @@ public class DataUtilitiesTest  {
         assertEquals(expected.getValue("2"), result.getValue("2"));
     }
     
+
+    @Test
+    public void testCalculateColumnTotalPrimitiveTableSkipsNullCells() {
+        DoubleArrayValues2D data = new DoubleArrayValues2D(3, 2);
+        data.setValue(0, 0, 1.0);
+        data.setValue(2, 0, 3.0);
+        data.setValue(1, 1, 7.0);
+        double result = DataUtilities.calculateColumnTotal(data, 0);
+        assertEquals("Unexpected sum", 4.0, result, EPSILON);
+    }
+
+    @Test
+    public void testCalculateRowTotalPrimitiveTableSkipsNullCells() {
+        DoubleArrayValues2D data = new DoubleArrayValues2D(new double[][] {{1.0, Double.NaN, 2.5}});
+        double result = DataUtilities.calculateRowTotal(data, 0);
+        assertEquals("Unexpected sum", 3.5, result, EPSILON);
+    }
+
+    @Test
+    public void testCalculateColumnTotalEmptyPrimitiveTable() {
+        DoubleArrayValues2D data = new DoubleArrayValues2D(0, 0);
+        double result = DataUtilities.calculateColumnTotal(data, 0);
+        assertEquals("Unexpected sum", 0.0, result, EPSILON);
+    }
+
+    @Test
+    public void testCalculateRowTotalPrimitiveTableOutOfRangeRow() {
+        DoubleArrayValues2D data = new DoubleArrayValues2D(new double[][] {{1.0}, {4.0}});
+        double result = DataUtilities.calculateRowTotal(data, 10);
+        assertEquals(0.0, result, EPSILON);
+    }
+
+    @Test
+    public void testColumnTotalsAndRowTotalsAgreeWithNullCells() {
+        DefaultKeyedValues2D data = new DefaultKeyedValues2D();
+        data.addValue(1, "Row1", "Column1");
+        data.addValue(null, "Row1", "Column2");
+        data.addValue(3, "Row2", "Column1");
+        data.addValue(4, "Row2", "Column2");
+        double[] columnTotals = new double[data.getColumnCount()];
+        for (int column = 0; column < columnTotals.length; column++) {
+            columnTotals[column] = DataUtilities.calculateColumnTotal(data, column);
+        }
+        double[] rowTotals = new double[data.getRowCount()];
+        for (int row = 0; row < rowTotals.length; row++) {
+            rowTotals[row] = DataUtilities.calculateRowTotal(data, row);
+        }
+        assertArrayEquals(new double[] {4.0, 4.0}, columnTotals, EPSILON);
+        assertArrayEquals(new double[] {1.0, 7.0}, rowTotals, EPSILON);
+        assertEquals("Column totals and row totals disagree",
+                Arrays.stream(columnTotals).sum(), Arrays.stream(rowTotals).sum(), EPSILON);
+    }
+
+    @Test
+    public void testRowTotalsComputedInParallelMatchSequentialColumnTotals() throws Exception {
+        DoubleArrayValues2D data = new DoubleArrayValues2D(2000, 50);
+        for (int row = 0; row < data.getRowCount(); row++) {
+            for (int column = 0; column < data.getColumnCount(); column++) {
+                if ((row + column) % 7 != 0) {
+                    data.setValue(row, column, row * 0.1 - column * 0.03);
+                }
+            }
+        }
+        double sequential = 0.0;
+        for (int column = 0; column < data.getColumnCount(); column++) {
+            sequential += DataUtilities.calculateColumnTotal(data, column);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            double parallel = pool.submit(() -> IntStream.range(0, data.getRowCount()).parallel()
+                    .mapToDouble(row -> DataUtilities.calculateRowTotal(data, row)).sum()).get();
+            // cells are not exactly representable and the summation order differs, so the
+            // two sums can differ in the last bits; allow a relative error of 1e-12
+            assertEquals(sequential, parallel, Math.abs(sequential) * 1e-12);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCreateNumberArrayIsSnapshotOfSource() {
+        double[] data = {1.0, 2.0};
+        Number[] result = DataUtilities.createNumberArray(data);
+        data[0] = 99.0;
+        assertEquals(1.0, result[0].doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testCreateNumberArray2DIsSnapshotOfSource() {
+        double[][] data = {{1.0, 2.0}, {3.0, 4.0}};
+        Number[][] result = DataUtilities.createNumberArray2D(data);
+        data[1][1] = 99.0;
+        assertEquals(4.0, result[1][1].doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testGetCumulativePercentagesAfterAppend() {
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", 5);
+        data.addValue("1", 2);
+        KeyedValues before = DataUtilities.getCumulativePercentages(data);
+        assertEquals(5.0 / 7.0, before.getValue("0").doubleValue(), EPSILON);
+        assertEquals(1.0, before.getValue("1").doubleValue(), EPSILON);
+        data.addValue("2", 3);
+        KeyedValues result = DataUtilities.getCumulativePercentages(data);
+        assertEquals(0.5, result.getValue("0").doubleValue(), EPSILON);
+        assertEquals(0.7, result.getValue("1").doubleValue(), EPSILON);
+        assertEquals(1.0, result.getValue("2").doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testGetCumulativePercentagesLeadingNullValue() {
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", null);
+        data.addValue("1", 4);
+        KeyedValues result = DataUtilities.getCumulativePercentages(data);
+        assertEquals(0.0, result.getValue("0").doubleValue(), EPSILON);
+        assertEquals(1.0, result.getValue("1").doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testColumnTotalGrowsAsRowsAreAppended() {
+        DefaultKeyedValues2D data = new DefaultKeyedValues2D();
+        double[][] rows = {{1.0, 2.0}, {3.0, 4.0}, {5.0, 6.0}};
+        double runningTotal = 0.0;
+        for (int row = 0; row < rows.length; row++) {
+            data.addValue(rows[row][0], "Row" + row, "Column1");
+            data.addValue(rows[row][1], "Row" + row, "Column2");
+            runningTotal += rows[row][1];
+            assertEquals(runningTotal, DataUtilities.calculateColumnTotal(data, 1), EPSILON);
+            for (int earlier = 0; earlier <= row; earlier++) {
+                assertEquals(rows[earlier][0] + rows[earlier][1], DataUtilities.calculateRowTotal(data, earlier), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void testCalculateColumnTotalLongColumnAccuracy() {
+        DoubleArrayValues2D data = new DoubleArrayValues2D(10000, 1);
+        double naive = 0.0;
+        for (int row = 0; row < data.getRowCount(); row++) {
+            data.setValue(row, 0, 0.1);
+            naive += 0.1;
+        }
+        // no worse than a plain left-to-right loop, which is off by about 1.6e-10 here
+        double naiveError = Math.abs(naive - 1000.0);
+        double result = DataUtilities.calculateColumnTotal(data, 0);
+        assertEquals("Rounding error too large", 1000.0, result, naiveError);
+    }
+
+    @Test
+    public void testGetCumulativePercentagesResultUnaffectedByLaterWrites() {
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", 5);
+        data.addValue("1", 5);
+        KeyedValues result = DataUtilities.getCumulativePercentages(data);
+        data.setValue("0", 15);
+        data.addValue("2", 10);
+        assertEquals(2, result.getItemCount());
+        assertEquals(0.5, result.getValue("0").doubleValue(), EPSILON);
+        assertEquals(1.0, result.getValue("1").doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testTotalsAfterReplacingValueWithNull() {
+        DefaultKeyedValues2D data = new DefaultKeyedValues2D();
+        data.addValue(1, "Row1", "Column1");
+        data.addValue(2, "Row2", "Column1");
+        data.addValue(3, "Row2", "Column2");
+        data.setValue(null, "Row2", "Column1");
+        assertEquals(1.0, DataUtilities.calculateColumnTotal(data, 0), EPSILON);
+        assertEquals(3.0, DataUtilities.calculateRowTotal(data, 1), EPSILON);
+    }
+
+    @Test
+    public void testTotalsAfterReplacingNullWithValue() {
+        DefaultKeyedValues2D data = new DefaultKeyedValues2D();
+        data.addValue(null, "Row1", "Column1");
+        data.addValue(2, "Row2", "Column1");
+        data.setValue(5, "Row1", "Column1");
+        assertEquals(7.0, DataUtilities.calculateColumnTotal(data, 0), EPSILON);
+        assertEquals(5.0, DataUtilities.calculateRowTotal(data, 0), EPSILON);
+    }
+
+    @Test
+    public void testGetCumulativePercentagesAfterEvictingOldestKey() {
+        DefaultKeyedValues data = new DefaultKeyedValues();
+        data.addValue("0", 4);
+        data.addValue("1", 1);
+        data.addValue("2", 3);
+        data.removeValue("0");
+        data.addValue("3", 4);
+        KeyedValues result = DataUtilities.getCumulativePercentages(data);
+        assertEquals(3, result.getItemCount());
+        assertEquals(0.125, result.getValue("1").doubleValue(), EPSILON);
+        assertEquals(0.5, result.getValue("2").doubleValue(), EPSILON);
+        assertEquals(1.0, result.getValue("3").doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testTotalsOverMostlyNullTable() {
+        DoubleArrayValues2D data = new DoubleArrayValues2D(50, 40);
+        data.setValue(3, 7, 2.0);
+        data.setValue(3, 39, 5.0);
+        data.setValue(48, 7, -1.5);
+        assertEquals(7.0, DataUtilities.calculateRowTotal(data, 3), EPSILON);
+        assertEquals(0.5, DataUtilities.calculateColumnTotal(data, 7), EPSILON);
+        assertEquals(0.0, DataUtilities.calculateRowTotal(data, 0), EPSILON);
+        assertEquals(0.0, DataUtilities.calculateColumnTotal(data, 0), EPSILON);
+    }
+
+    @Test
+    public void testGetCumulativePercentagesBatchOnBoundedPoolMatchesSequential() throws Exception {
+        List<KeyedValues> datasets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            DefaultKeyedValues data = new DefaultKeyedValues();
+            data.addValue("0", i + 1);
+            data.addValue("1", null);
+            data.addValue("2", 2 * i + 3);
+            datasets.add(data);
+        }
+        List<Callable<KeyedValues>> batch = new ArrayList<>();
+        for (KeyedValues data : datasets) {
+            batch.add(() -> DataUtilities.getCumulativePercentages(data));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<KeyedValues>> results = pool.invokeAll(batch, 30, TimeUnit.SECONDS);
+            for (int i = 0; i < datasets.size(); i++) {
+                KeyedValues expected = DataUtilities.getCumulativePercentages(datasets.get(i));
+                KeyedValues actual = results.get(i).get();
+                assertEquals(expected.getItemCount(), actual.getItemCount());
+                assertEquals(expected.getKeys(), actual.getKeys());
+                for (int item = 0; item < expected.getItemCount(); item++) {
+                    assertEquals(expected.getValue(item).doubleValue(), actual.getValue(item).doubleValue(), EPSILON);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
 }
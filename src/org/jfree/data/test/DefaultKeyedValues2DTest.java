@@ -0,0 +1,93 @@
+package org.jfree.data.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.jfree.data.DataUtilities;
+import org.jfree.data.DefaultKeyedValues2D;
+import org.junit.*;
+
+public class DefaultKeyedValues2DTest {
+    private DefaultKeyedValues2D table;
+    private static final double EPSILON = 0.0001;
+
+    @Before
+    public void setUp() {
+        table = new DefaultKeyedValues2D();
+        table.addValue(1.0, "Row1", "Column1");
+        table.addValue(2.0, "Row1", "Column2");
+        table.addValue(3.0, "Row2", "Column3");
+    }
+
+    @After
+    public void tearDown() {
+        table = null;
+    }
+
+    @Test
+    public void testRowAndColumnIndices() {
+        assertEquals(0, table.getRowIndex("Row1"));
+        assertEquals(1, table.getRowIndex("Row2"));
+        assertEquals(0, table.getColumnIndex("Column1"));
+        assertEquals(2, table.getColumnIndex("Column3"));
+    }
+
+    @Test
+    public void testUnknownKeysHaveNoIndex() {
+        assertEquals(-1, table.getRowIndex("Row9"));
+        assertEquals(-1, table.getColumnIndex("Column9"));
+    }
+
+    @Test
+    public void testGetValueByKeys() {
+        assertEquals(2.0, table.getValue("Row1", "Column2").doubleValue(), EPSILON);
+        assertEquals(3.0, table.getValue("Row2", "Column3").doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testGetValueByKeysForUnsetCell() {
+        assertNull(table.getValue("Row2", "Column1"));
+    }
+
+    @Test
+    public void testAddValueToExistingCellOverwrites() {
+        table.addValue(10.0, "Row1", "Column1");
+        assertEquals(3, table.getColumnCount());
+        assertEquals(10.0, table.getValue("Row1", "Column1").doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testKeyedAndIndexedAccessAgree() {
+        int row = table.getRowIndex("Row2");
+        int column = table.getColumnIndex("Column3");
+        assertEquals(table.getValue("Row2", "Column3"), table.getValue(row, column));
+    }
+
+    @Test
+    public void testSerializationRoundTripKeepsTotals() throws Exception {
+        table.addValue(null, "Row2", "Column4");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(table);
+        }
+        DefaultKeyedValues2D copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (DefaultKeyedValues2D) in.readObject();
+        }
+        assertEquals(table.getRowKeys(), copy.getRowKeys());
+        assertEquals(table.getColumnKeys(), copy.getColumnKeys());
+        assertEquals(table, copy);
+        for (int row = 0; row < table.getRowCount(); row++) {
+            assertEquals(DataUtilities.calculateRowTotal(table, row), DataUtilities.calculateRowTotal(copy, row), EPSILON);
+        }
+        for (int column = 0; column < table.getColumnCount(); column++) {
+            assertEquals(DataUtilities.calculateColumnTotal(table, column), DataUtilities.calculateColumnTotal(copy, column), EPSILON);
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.jfree.data.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.jfree.data.DefaultKeyedValues;
+import org.jfree.util.SortOrder;
+import org.junit.*;
+
+public class DefaultKeyedValuesTest {
+    private DefaultKeyedValues keyedValues;
+    private static final double EPSILON = 0.0001;
+
+    @Before
+    public void setUp() {
+        keyedValues = new DefaultKeyedValues();
+        keyedValues.addValue("A", 1.0);
+        keyedValues.addValue("B", 2.0);
+        keyedValues.addValue("C", 3.0);
+    }
+
+    @After
+    public void tearDown() {
+        keyedValues = null;
+    }
+
+    @Test
+    public void testGetIndexOfEachKey() {
+        assertEquals(0, keyedValues.getIndex("A"));
+        assertEquals(1, keyedValues.getIndex("B"));
+        assertEquals(2, keyedValues.getIndex("C"));
+    }
+
+    @Test
+    public void testGetIndexUnknownKey() {
+        assertEquals(-1, keyedValues.getIndex("Z"));
+    }
+
+    @Test
+    public void testGetIndexAfterRemoveShiftsLaterKeys() {
+        keyedValues.removeValue("A");
+        assertEquals(-1, keyedValues.getIndex("A"));
+        assertEquals(0, keyedValues.getIndex("B"));
+        assertEquals(1, keyedValues.getIndex("C"));
+    }
+
+    @Test
+    public void testSetValueOnExistingKeyKeepsIndex() {
+        keyedValues.setValue("B", 20.0);
+        assertEquals(1, keyedValues.getIndex("B"));
+        assertEquals(3, keyedValues.getItemCount());
+        assertEquals(20.0, keyedValues.getValue("B").doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testGetIndexAfterSortByValues() {
+        keyedValues.sortByValues(SortOrder.DESCENDING);
+        assertEquals(0, keyedValues.getIndex("C"));
+        assertEquals(1, keyedValues.getIndex("B"));
+        assertEquals(2, keyedValues.getIndex("A"));
+        assertEquals(3.0, keyedValues.getValue("C").doubleValue(), EPSILON);
+    }
+
+    @Test
+    public void testGetIndexAfterClear() {
+        keyedValues.clear();
+        assertEquals(-1, keyedValues.getIndex("A"));
+        assertEquals(0, keyedValues.getItemCount());
+    }
+}
@@ -0,0 +1,50 @@
+package org.jfree.data.test;
+
+import java.util.Arrays;
+
+import org.jfree.data.Values2D;
+
+// Values2D backed by one contiguous row-major double[]; NaN marks a null cell.
+class DoubleArrayValues2D implements Values2D {
+    private final int rowCount;
+    private final int columnCount;
+    private final double[] cells;
+
+    DoubleArrayValues2D(int rowCount, int columnCount) {
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.cells = new double[rowCount * columnCount];
+        Arrays.fill(this.cells, Double.NaN);
+    }
+
+    DoubleArrayValues2D(double[][] data) {
+        this(data.length, data.length == 0 ? 0 : data[0].length);
+        for (int row = 0; row < rowCount; row++) {
+            System.arraycopy(data[row], 0, cells, row * columnCount, columnCount);
+        }
+    }
+
+    void setValue(int row, int column, double value) {
+        cells[index(row, column)] = value;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    public Number getValue(int row, int column) {
+        double value = cells[index(row, column)];
+        return Double.isNaN(value) ? null : Double.valueOf(value);
+    }
+
+    private int index(int row, int column) {
+        if (row < 0 || row >= rowCount || column < 0 || column >= columnCount) {
+            throw new IndexOutOfBoundsException("(" + row + ", " + column + ")");
+        }
+        return row * columnCount + column;
+    }
+}
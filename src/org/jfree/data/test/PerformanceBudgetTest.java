@@ -0,0 +1,86 @@
+package org.jfree.data.test;
+
+import static org.junit.Assert.assertTrue;
+
+import org.jfree.data.DataUtilities;
+import org.jfree.data.DefaultKeyedValues;
+import org.jfree.data.DefaultKeyedValues2D;
+import org.jfree.data.Range;
+import org.junit.*;
+
+// Budgets are several times the expected cost so that only real regressions fail.
+// The per-cell allocation budget is the exception: it allows twice the worst case seen
+// without escape analysis (-Xint, coverage), where each keyed lookup in older 1.0.x
+// builds allocates an iterator of about 32 bytes, so a tripled cost still fails.
+// Wall-clock budgets depend on the machine, so they only run with -DlatencyBudgets=true.
+public class PerformanceBudgetTest {
+    private static final int SIZE = 100;
+    private static final int BYTES_PER_CELL = 64;
+    private static final boolean LATENCY_BUDGETS_ENABLED = Boolean.getBoolean("latencyBudgets");
+    private DefaultKeyedValues keyedValues;
+    private DefaultKeyedValues2D table;
+    private double[] primitives;
+
+    @Before
+    public void setUp() {
+        keyedValues = new DefaultKeyedValues();
+        table = new DefaultKeyedValues2D();
+        primitives = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keyedValues.addValue("Key" + i, i + 1.0);
+            table.addValue(i + 1.0, "Row" + i, "Column1");
+            primitives[i] = i * 0.5;
+        }
+    }
+
+    @After
+    public void tearDown() {
+        keyedValues = null;
+        table = null;
+        primitives = null;
+    }
+
+    @Test
+    public void testCalculateColumnTotalAllocationBudget() {
+        Assume.assumeTrue(CallBudget.isAllocationMeasurable());
+        double bytes = CallBudget.bytesPerCall(() -> DataUtilities.calculateColumnTotal(table, 0));
+        assertTrue("calculateColumnTotal allocated " + bytes + " bytes per call", bytes <= BYTES_PER_CELL * SIZE);
+    }
+
+    @Test
+    public void testCreateNumberArrayAllocationBudget() {
+        Assume.assumeTrue(CallBudget.isAllocationMeasurable());
+        double bytes = CallBudget.bytesPerCall(() -> DataUtilities.createNumberArray(primitives));
+        assertTrue("createNumberArray allocated " + bytes + " bytes per call", bytes <= 64 * SIZE);
+    }
+
+    @Test
+    public void testGetCumulativePercentagesAllocationBudget() {
+        Assume.assumeTrue(CallBudget.isAllocationMeasurable());
+        double bytes = CallBudget.bytesPerCall(() -> DataUtilities.getCumulativePercentages(keyedValues));
+        assertTrue("getCumulativePercentages allocated " + bytes + " bytes per call", bytes <= 512 * SIZE);
+    }
+
+    @Test
+    public void testRangeCombineAllocationBudget() {
+        Assume.assumeTrue(CallBudget.isAllocationMeasurable());
+        Range first = new Range(1.0, 10.0);
+        Range second = new Range(5.0, 20.0);
+        double bytes = CallBudget.bytesPerCall(() -> Range.combine(first, second));
+        assertTrue("Range.combine allocated " + bytes + " bytes per call", bytes <= 256);
+    }
+
+    @Test
+    public void testCalculateColumnTotalLatencyBudget() {
+        Assume.assumeTrue(LATENCY_BUDGETS_ENABLED);
+        double nanos = CallBudget.nanosPerCall(() -> DataUtilities.calculateColumnTotal(table, 0));
+        assertTrue("calculateColumnTotal took " + nanos + " ns per call", nanos <= 100000);
+    }
+
+    @Test
+    public void testGetCumulativePercentagesLatencyBudget() {
+        Assume.assumeTrue(LATENCY_BUDGETS_ENABLED);
+        double nanos = CallBudget.nanosPerCall(() -> DataUtilities.getCumulativePercentages(keyedValues));
+        assertTrue("getCumulativePercentages took " + nanos + " ns per call", nanos <= 1000000);
+    }
+}
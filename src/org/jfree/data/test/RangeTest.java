@@ -615,5 +615,89 @@ public class RangeTest {
         Range expected = new Range(-5, 1);
         assertEquals(expected, shifted);
     }
+
+    @Test
+    public void testIntersects_SpanBelowRange() {
+        Range range = new Range(1.0, 10.0);
+        assertFalse(range.intersects(-5.0, 0.5));
+    }
+
+    @Test
+    public void testIntersects_SpanInsideRange() {
+        Range range = new Range(1.0, 10.0);
+        assertTrue(range.intersects(3.0, 4.0));
+    }
+
+    @Test
+    public void testIntersects_SpanEnclosesRange() {
+        Range range = new Range(1.0, 10.0);
+        assertTrue(range.intersects(-100.0, 100.0));
+    }
+
+    @Test
+    public void testIntersects_IsSymmetricForOverlappingRanges() {
+        Range first = new Range(1.0, 10.0);
+        Range second = new Range(5.0, 20.0);
+        assertTrue(first.intersects(second.getLowerBound(), second.getUpperBound()));
+        assertTrue(second.intersects(first.getLowerBound(), first.getUpperBound()));
+    }
+
+    @Test
+    public void testContains_NaN() {
+        Range range = new Range(1.0, 10.0);
+        assertFalse(range.contains(Double.NaN));
+    }
+
+    @Test
+    public void testConstrain_PositiveInfinity() {
+        Range range = new Range(1.0, 10.0);
+        assertEquals(10.0, range.constrain(Double.POSITIVE_INFINITY), 0.0d);
+    }
+
+    @Test
+    public void testConstrain_NegativeInfinity() {
+        Range range = new Range(1.0, 10.0);
+        assertEquals(1.0, range.constrain(Double.NEGATIVE_INFINITY), 0.0d);
+    }
+
+    @Test
+    public void testConstrain_NaN() {
+        Range range = new Range(1.0, 10.0);
+        assertTrue(Double.isNaN(range.constrain(Double.NaN)));
+    }
+
+    @Test
+    public void testConstrain_ValueInsideRangeIsReturnedUnchanged() {
+        Range range = new Range(-1.0, 1.0);
+        double value = -0.0;
+        assertEquals(Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(range.constrain(value)));
+    }
+
+    @Test
+    public void testExpandToInclude_FoldOverValuesFromNull() {
+        Range range = null;
+        for (double value : new double[] {4.0, -2.0, 7.5, 0.0}) {
+            range = Range.expandToInclude(range, value);
+        }
+        assertEquals(new Range(-2.0, 7.5), range);
+    }
+
+    @Test
+    public void testCombine_MergedPartialFoldsEqualFullFold() {
+        double[] values = {3.0, -1.0, 8.0, 2.0, -6.0, 5.0};
+        Range left = null;
+        Range right = null;
+        Range full = null;
+        for (int i = 0; i < values.length; i++) {
+            if (i < values.length / 2) {
+                left = Range.expandToInclude(left, values[i]);
+            } else {
+                right = Range.expandToInclude(right, values[i]);
+            }
+            full = Range.expandToInclude(full, values[i]);
+        }
+        assertEquals(full, Range.combine(left, right));
+    }
+
 }
  	   